@@ -59,6 +59,18 @@ public class PolicySpec<T extends Policy> extends AbstractBrooklynObjectSpec<T,P
         return PolicySpec.create(type).configure(config);
     }
     
+    /**
+     * Copies the policy spec so its configuration can be overridden without modifying the 
+     * original policy spec.
+     */
+    public static <T extends Policy> PolicySpec<T> create(PolicySpec<T> spec) {
+        // need this to get PolicySpec<T> rather than PolicySpec<? extends T>
+        @SuppressWarnings("unchecked")
+        Class<T> exactType = (Class<T>)spec.getType();
+        
+        return create(exactType).copyFrom(spec);
+    }
+    
     protected PolicySpec(Class<T> type) {
         super(type);
     }